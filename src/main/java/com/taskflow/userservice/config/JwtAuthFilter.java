@@ -3,21 +3,16 @@ package com.taskflow.userservice.config;
 import com.taskflow.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.stream.Collectors;
 
 /*
  * JWT authentication filter.
@@ -27,9 +22,11 @@ import java.util.stream.Collectors;
  * - If a token is present, it delegates to JwtService to extract the email
  *   (the token subject) and validate the token signature and expiration.
  * - If the token is valid and a matching user is found in the database,
- *   the filter builds a UserDetails object with granted authorities and
- *   places an Authentication into the SecurityContext. This makes Spring
- *   treat the request as authenticated for downstream controllers.
+ *   the filter looks up the precompiled PermissionSet for the user's roles
+ *   (no per-request authority list is built), wraps it in a
+ *   PermissionAuthenticationToken and places it into the SecurityContext.
+ *   This makes Spring treat the request as authenticated for downstream
+ *   controllers.
  *
  * Casual example: think of this filter as a security guard at the door who
  * checks the "token" ID card, confirms it's valid, and then tells the app
@@ -41,6 +38,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PermissionRegistry permissionRegistry;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain chain)
@@ -56,14 +54,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String userEmail = jwtService.extractEmail(token);
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userEntity = userRepository.findByEmail(userEmail);
-            if (userEntity.isPresent() && jwtService.isTokenValid(token, userEmail)) {
-                var roles = userEntity.get().getRoles().stream()
-                        .map(r -> new SimpleGrantedAuthority("ROLE_" + r.getName()))
-                        .collect(Collectors.toList());
-
-                UserDetails userDetails = new User(userEmail, userEntity.get().getPassword(), roles);
-                var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, roles);
+            var authToken = authenticate(token, userEmail);
+            if (authToken != null) {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
@@ -71,4 +63,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    /*
+     * authenticate(token, userEmail)
+     * - Looks up the user, validates the token and builds the Authentication
+     *   from the precompiled PermissionSet; returns null if either fails.
+     * - Split out of doFilterInternal so WarmupRunner can run the same
+     *   sequence without an HTTP request.
+     */
+    PermissionAuthenticationToken authenticate(String token, String userEmail) {
+        var userEntity = userRepository.findByEmail(userEmail);
+        if (userEntity.isPresent() && jwtService.isTokenValid(token, userEmail)) {
+            return new PermissionAuthenticationToken(userEmail, permissionRegistry.forRoles(userEntity.get().getRoles()));
+        }
+        return null;
+    }
 }
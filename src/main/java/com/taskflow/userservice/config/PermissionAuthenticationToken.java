@@ -0,0 +1,61 @@
+package com.taskflow.userservice.config;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Authentication placed in the SecurityContext by JwtAuthFilter.
+ *
+ * Unlike UsernamePasswordAuthenticationToken it does not copy the authority
+ * list: getAuthorities() returns the shared immutable list from the
+ * PermissionSet, and getPermissions() exposes the bitset used by
+ * PermissionChecks. The principal is just the user's email (the token
+ * subject), so getName() returns it and no password hash is carried.
+ * equals/hashCode include the permissions, since the inherited authority
+ * field is left empty.
+ */
+public class PermissionAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final String principal;
+    private final PermissionSet permissions;
+
+    public PermissionAuthenticationToken(String email, PermissionSet permissions) {
+        super(null);
+        this.principal = email;
+        this.permissions = permissions;
+        setAuthenticated(true);
+    }
+
+    public PermissionSet getPermissions() {
+        return permissions;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return permissions.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PermissionAuthenticationToken other
+                && super.equals(obj)
+                && permissions.equals(other.permissions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + permissions.hashCode();
+    }
+}
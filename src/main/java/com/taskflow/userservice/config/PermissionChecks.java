@@ -0,0 +1,61 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.model.Permission;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Permission checks backed by the precompiled bitsets.
+ *
+ * - require(...) is used in SecurityConfig for endpoint rules; the mask is
+ *   computed once when the filter chain is built.
+ * - has(...) is used from method security, for example:
+ *   {@code @PreAuthorize("@permissions.has(authentication, 'USER_UPDATE_ANY')")}
+ *   The name is resolved to a mask once and cached; an unknown name
+ *   (e.g. a typo in an expression) is denied instead of throwing.
+ *
+ * Only PermissionAuthenticationToken carries permissions; any other
+ * Authentication (anonymous, etc.) is denied.
+ */
+@Component("permissions")
+public class PermissionChecks {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final long[] UNKNOWN = new long[0];
+
+    private final Map<String, long[]> masks = new ConcurrentHashMap<>();
+
+    public AuthorizationManager<RequestAuthorizationContext> require(Permission... permissions) {
+        long[] mask = PermissionSet.mask(permissions);
+        return (authentication, context) -> check(authentication.get(), mask) ? GRANTED : DENIED;
+    }
+
+    public boolean has(Authentication authentication, String permission) {
+        if (permission == null) {
+            return false;
+        }
+        long[] mask = masks.computeIfAbsent(permission, PermissionChecks::resolve);
+        return mask != UNKNOWN && check(authentication, mask);
+    }
+
+    private static long[] resolve(String name) {
+        for (Permission permission : Permission.values()) {
+            if (permission.name().equals(name)) {
+                return PermissionSet.mask(permission);
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean check(Authentication authentication, long[] mask) {
+        return authentication instanceof PermissionAuthenticationToken token
+                && token.getPermissions().hasAll(mask);
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import com.taskflow.userservice.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles every Role (with its inherited parents) into a PermissionSet.
+ *
+ * - recompile() loads all roles, resolves the hierarchy once and publishes
+ *   a new immutable snapshot through a volatile field. Readers (the JWT
+ *   filter, authorization checks) never lock; they just see either the old
+ *   or the new snapshot.
+ * - Writers are serialized with synchronized so two concurrent role changes
+ *   cannot publish an older compilation after a newer one.
+ *
+ * Call recompile() after any change to roles, permissions or parents
+ * (RoleService does this for you).
+ */
+@Component
+@RequiredArgsConstructor
+public class PermissionRegistry {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+
+    /*
+     * forRoles(roles)
+     * - Returns the precompiled set for a user's roles.
+     * - The common single-role case is a plain map lookup with no allocation.
+     * - Other combinations (several roles, or a role created but not yet
+     *   compiled) are merged once and cached in the current snapshot, keyed
+     *   by the sorted role names; recompile() drops that cache.
+     * - Roles missing from the snapshot contribute only their ROLE_
+     *   authority, never permissions.
+     */
+    public PermissionSet forRoles(Collection<Role> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return PermissionSet.EMPTY;
+        }
+        Snapshot current = snapshot;
+        if (roles.size() == 1) {
+            PermissionSet compiled = current.byRole().get(roles.iterator().next().getName());
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        String[] names = new String[roles.size()];
+        int i = 0;
+        for (Role role : roles) {
+            names[i++] = role.getName();
+        }
+        Arrays.sort(names);
+        return current.merged().computeIfAbsent(String.join("\n", names), key -> current.merge(names));
+    }
+
+    /*
+     * recompile()
+     * - Rebuilds the role -> PermissionSet map from the database and swaps
+     *   it in atomically.
+     * - Always reads in a new transaction so it only sees committed data,
+     *   also when called from a writer's afterCommit callback.
+     * - Throws IllegalStateException if the role hierarchy has a cycle; the
+     *   previous snapshot stays in place in that case.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public synchronized void recompile() {
+        snapshot = new Snapshot(compile(roleRepository.findAllWithPermissions()));
+    }
+
+    static Map<String, PermissionSet> compile(List<Role> roles) {
+        Map<String, Role> byName = new HashMap<>();
+        for (Role role : roles) {
+            byName.put(role.getName(), role);
+        }
+
+        Map<String, long[]> resolved = new HashMap<>();
+        for (Role role : roles) {
+            resolve(role, byName, resolved, new HashSet<>());
+        }
+
+        Map<String, PermissionSet> compiled = new HashMap<>();
+        for (Role role : roles) {
+            compiled.put(role.getName(), PermissionSet.of(List.of(role.getName()), resolved.get(role.getName())));
+        }
+        return Map.copyOf(compiled);
+    }
+
+    // Depth-first resolution of a role's own permissions plus its parents'.
+    private static long[] resolve(Role role, Map<String, Role> byName, Map<String, long[]> resolved, Set<String> visiting) {
+        long[] cached = resolved.get(role.getName());
+        if (cached != null) {
+            return cached;
+        }
+        if (!visiting.add(role.getName())) {
+            throw new IllegalStateException("Cycle in role hierarchy at role " + role.getName());
+        }
+
+        long[] bits = new long[Permission.WORDS];
+        if (role.getPermissions() != null) {
+            for (Permission permission : role.getPermissions()) {
+                PermissionSet.set(bits, permission.ordinal());
+            }
+        }
+        if (role.getParent() != null) {
+            // Prefer the loaded instance so the parent's permissions come from the same query.
+            Role parent = byName.getOrDefault(role.getParent().getName(), role.getParent());
+            long[] parentBits = resolve(parent, byName, resolved, visiting);
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] |= parentBits[i];
+            }
+        }
+
+        visiting.remove(role.getName());
+        resolved.put(role.getName(), bits);
+        return bits;
+    }
+
+    /*
+     * Snapshot
+     * - byRole: immutable compiled set per role name.
+     * - merged: lazily filled cache of role combinations; it belongs to this
+     *   snapshot only, so a recompile starts with an empty cache.
+     */
+    private record Snapshot(Map<String, PermissionSet> byRole, Map<String, PermissionSet> merged) {
+
+        Snapshot(Map<String, PermissionSet> byRole) {
+            this(byRole, new ConcurrentHashMap<>());
+        }
+
+        PermissionSet merge(String[] sortedNames) {
+            long[] bits = new long[Permission.WORDS];
+            for (String name : sortedNames) {
+                PermissionSet compiled = byRole.get(name);
+                if (compiled != null) {
+                    compiled.orInto(bits);
+                }
+            }
+            return PermissionSet.of(Arrays.asList(sortedNames), bits);
+        }
+    }
+}
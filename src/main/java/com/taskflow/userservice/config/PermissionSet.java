@@ -0,0 +1,104 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.model.Permission;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable, precompiled set of permissions plus the matching authorities.
+ * - bits: one bit per Permission (bit index = ordinal), so a check is a
+ *   single AND on the relevant word.
+ * - authorities: "ROLE_<name>" entries plus one "PERM_<permission>" entry,
+ *   built once and shared by every request of a user with these roles.
+ *
+ * Instances are created by PermissionRegistry and must never be mutated.
+ */
+public final class PermissionSet {
+
+    public static final PermissionSet EMPTY = new PermissionSet(new long[Permission.WORDS], List.of());
+
+    private final long[] bits;
+    private final List<GrantedAuthority> authorities;
+
+    private PermissionSet(long[] bits, List<GrantedAuthority> authorities) {
+        this.bits = bits;
+        this.authorities = authorities;
+    }
+
+    /*
+     * of(roleNames, bits)
+     * - Builds the shared authority list for the given role names and bits.
+     * - The bits array is owned by the new instance after this call.
+     */
+    static PermissionSet of(Collection<String> roleNames, long[] bits) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String roleName : roleNames) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + roleName));
+        }
+        for (Permission permission : Permission.values()) {
+            if (test(bits, permission.ordinal())) {
+                authorities.add(new SimpleGrantedAuthority(permission.authority()));
+            }
+        }
+        return new PermissionSet(bits, List.copyOf(authorities));
+    }
+
+    // Builds a mask with one bit set per given permission.
+    public static long[] mask(Permission... permissions) {
+        long[] mask = new long[Permission.WORDS];
+        for (Permission permission : permissions) {
+            set(mask, permission.ordinal());
+        }
+        return mask;
+    }
+
+    public boolean has(Permission permission) {
+        return test(bits, permission.ordinal());
+    }
+
+    // True when every bit of the mask is present in this set.
+    public boolean hasAll(long[] mask) {
+        for (int i = 0; i < mask.length; i++) {
+            if ((bits[i] & mask[i]) != mask[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PermissionSet other
+                && Arrays.equals(bits, other.bits)
+                && authorities.equals(other.authorities);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bits) + authorities.hashCode();
+    }
+
+    // ORs this set's bits into the target without exposing the shared array.
+    void orInto(long[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= bits[i];
+        }
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean test(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
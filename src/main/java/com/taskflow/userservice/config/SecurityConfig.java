@@ -1,10 +1,13 @@
 package com.taskflow.userservice.config;
 
+import com.taskflow.userservice.model.Permission;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -13,16 +16,22 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final PermissionChecks permissionChecks;
 
     /*
      * SecurityConfig defines which endpoints are public and which
      * require authentication. We register JwtAuthFilter before the
      * UsernamePasswordAuthenticationFilter so that JWT validation happens on
      * every request and the SecurityContext gets populated when token is valid.
+     *
+     * Endpoints that need a specific permission use permissionChecks.require(...),
+     * which compares the precompiled bitset of the caller instead of scanning
+     * authority strings.
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,6 +39,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/users/me").access(permissionChecks.require(Permission.USER_READ_SELF))
+                        .requestMatchers(HttpMethod.PUT, "/users/me").access(permissionChecks.require(Permission.USER_UPDATE_SELF))
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
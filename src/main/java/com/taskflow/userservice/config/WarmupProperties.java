@@ -0,0 +1,22 @@
+package com.taskflow.userservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the startup warmup (prefix "taskflow.warmup").
+ * - enabled: run the warmup before the app reports ready
+ * - iterations: how many times each hot path is exercised
+ * - timeout: upper bound; after it the app becomes ready anyway
+ */
+@ConfigurationProperties(prefix = "taskflow.warmup")
+@Getter
+@Setter
+public class WarmupProperties {
+    private boolean enabled = true;
+    private int iterations = 2000;
+    private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,244 @@
+package com.taskflow.userservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.userservice.dto.AuthRequest;
+import com.taskflow.userservice.dto.AuthResponse;
+import com.taskflow.userservice.model.User;
+import com.taskflow.userservice.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/*
+ * Startup warmup.
+ *
+ * - Spring Boot keeps the readiness state at REFUSING_TRAFFIC until all
+ *   ApplicationRunners have finished, so running the warmup here gates
+ *   /actuator/health/readiness without any extra wiring.
+ * - It first pre-fills the Hikari pool, then exercises the request hot
+ *   paths (JWT generate/validate, findByEmail, the JwtAuthFilter
+ *   authentication sequence, Jackson DTO round trip) for the configured
+ *   iterations so the JIT compiles them before real traffic arrives.
+ *   Everything is read-only; no data is written.
+ * - The warmup runs on its own daemon thread and is interrupted after the
+ *   configured timeout; the app then becomes ready anyway. A call stuck in
+ *   JDBC cannot be interrupted, but it will not block JVM shutdown.
+ * - Per step it records the median latency of the first SAMPLE_SIZE calls
+ *   (taken before the step is used for anything else) and of SAMPLE_SIZE
+ *   calls after the iterations. Results are kept as they are measured, so
+ *   a timed-out warmup still reports what it got through. The report is
+ *   logged and exposed as the "warmup" health component.
+ * - Hibernate SQL logging is turned off while it runs, otherwise thousands
+ *   of statements would be logged.
+ *
+ * Casual example: like stretching before a run — the first real requests
+ * should not pay for class loading, interpretation and empty pools.
+ */
+@Slf4j
+@Component("warmup")
+@EnableConfigurationProperties(WarmupProperties.class)
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner, HealthIndicator {
+
+    static final String WARMUP_EMAIL = "warmup@taskflow.invalid";
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+    private static final int SAMPLE_SIZE = 20;
+
+    private final WarmupProperties properties;
+    private final JwtService jwtService;
+    private final UserRepository userRepository;
+    private final JwtAuthFilter jwtAuthFilter;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final LoggingSystem loggingSystem;
+
+    // Filled by the warmup thread as each step is measured.
+    private final Map<String, Object> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile int completedIterations;
+
+    private volatile Map<String, Object> report = Map.of("status", "PENDING");
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            report = Map.of("status", "DISABLED");
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LogLevel sqlLevel = silenceSqlLogging();
+        long start = System.nanoTime();
+        Future<?> result = executor.submit(() -> {
+            warmup();
+            return null;
+        });
+        String status;
+        try {
+            result.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            status = "COMPLETED";
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            status = "TIMED_OUT";
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            status = "INTERRUPTED";
+        } catch (ExecutionException ex) {
+            log.warn("Warmup failed, continuing startup", ex.getCause());
+            status = "FAILED";
+        } finally {
+            executor.shutdownNow();
+            loggingSystem.setLogLevel(SQL_LOGGER, sqlLevel);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Map<String, Object> measured;
+        synchronized (steps) {
+            measured = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+        }
+        Map<String, Object> finished = new LinkedHashMap<>();
+        finished.put("status", status);
+        finished.put("durationMs", elapsedMs);
+        finished.put("iterations", properties.getIterations());
+        finished.put("completedIterations", completedIterations);
+        finished.put("steps", measured);
+        report = Collections.unmodifiableMap(finished);
+        log.info("Warmup {} in {} ms: {}", status, elapsedMs, measured);
+    }
+
+    @Override
+    public Health health() {
+        // Readiness is gated by the runner itself; this only reports the result.
+        return Health.up().withDetails(report).build();
+    }
+
+    private void warmup() throws Exception {
+        steps.put("connectionPool", prefillPool());
+        String email = warmupEmail();
+
+        // Each step is sampled cold before anything else uses that path.
+        Map<String, Callable<Object>> work = new LinkedHashMap<>();
+        sampleBefore(work, "jwtGenerate", () -> jwtService.generateToken(email));
+        String token = jwtService.generateToken(email);
+        sampleBefore(work, "jwtValidate", () -> jwtService.isTokenValid(token, email));
+        sampleBefore(work, "findByEmail", () -> userRepository.findByEmail(email));
+        sampleBefore(work, "authFilter", () -> {
+            // Same sequence as JwtAuthFilter, minus the request details.
+            var authentication = jwtAuthFilter.authenticate(token, jwtService.extractEmail(token));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            SecurityContextHolder.clearContext();
+            return authentication;
+        });
+        AuthResponse response = AuthResponse.builder().token(token).build();
+        String requestJson = "{\"email\":\"" + WARMUP_EMAIL + "\",\"password\":\"warmup\"}";
+        sampleBefore(work, "json", () -> {
+            objectMapper.writeValueAsString(response);
+            return objectMapper.readValue(requestJson, AuthRequest.class);
+        });
+
+        for (int i = 0; i < properties.getIterations(); i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Warmup interrupted after " + i + " iterations");
+            }
+            for (Callable<Object> step : work.values()) {
+                step.call();
+            }
+            completedIterations = i + 1;
+        }
+
+        for (var entry : work.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> before = (Map<String, Object>) steps.get(entry.getKey());
+            Map<String, Object> result = new LinkedHashMap<>(before);
+            result.put("afterMedianMs", medianMillis(entry.getValue()));
+            steps.put(entry.getKey(), Collections.unmodifiableMap(result));
+        }
+    }
+
+    private void sampleBefore(Map<String, Callable<Object>> work, String name, Callable<Object> step) throws Exception {
+        steps.put(name, Map.of("beforeMedianMs", medianMillis(step)));
+        work.put(name, step);
+    }
+
+    /*
+     * warmupEmail()
+     * - Picks an existing user (read-only) so findByEmail and the filter
+     *   also exercise entity hydration (User -> roles). Nothing is written,
+     *   so nodes starting at the same time cannot conflict.
+     * - On an empty database it falls back to an address that never
+     *   matches, which still warms the query itself.
+     */
+    private String warmupEmail() {
+        return userRepository.findFirstByOrderByIdAsc().map(User::getEmail).orElse(WARMUP_EMAIL);
+    }
+
+    /*
+     * prefillPool()
+     * - Hikari opens connections lazily in the background; borrowing up to
+     *   minimumIdle connections at once forces them open now so the first
+     *   requests do not wait on TCP/TLS/auth handshakes.
+     */
+    private Map<String, Object> prefillPool() throws SQLException {
+        // unwrap() also finds the pool behind proxies around the DataSource bean.
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return Map.of("prefilled", 0);
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        int target = Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+        long start = System.nanoTime();
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                connections.add(hikari.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        return Map.of("prefilled", target, "durationMs", toMillis(System.nanoTime() - start));
+    }
+
+    // Turns off Hibernate SQL logging and returns the level to restore.
+    private LogLevel silenceSqlLogging() {
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(SQL_LOGGER);
+        LogLevel previous = configuration != null ? configuration.getConfiguredLevel() : null;
+        loggingSystem.setLogLevel(SQL_LOGGER, LogLevel.OFF);
+        return previous;
+    }
+
+    private static double medianMillis(Callable<Object> step) throws Exception {
+        long[] samples = new long[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            long start = System.nanoTime();
+            step.call();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return toMillis(samples[SAMPLE_SIZE / 2]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
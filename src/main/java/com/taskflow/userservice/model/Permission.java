@@ -0,0 +1,29 @@
+package com.taskflow.userservice.model;
+
+/**
+ * Fine-grained permissions that can be attached to a Role.
+ * - Each constant is compiled into one bit of a long[] bitset
+ *   (bit index = ordinal). Bitsets only live in memory and are rebuilt
+ *   from the database on start, so constants can be added or reordered
+ *   freely. They are stored by name, so renaming or removing one breaks
+ *   existing role_permissions rows.
+ * - As Spring Security authorities they are prefixed with "PERM_" so they
+ *   never collide with "ROLE_" authorities (ROLE_MANAGE vs a role "MANAGE").
+ */
+public enum Permission {
+    USER_READ_SELF,
+    USER_UPDATE_SELF,
+    USER_READ_ANY,
+    USER_UPDATE_ANY,
+    ROLE_MANAGE;
+
+    /** Number of long words needed to hold one bit per permission. */
+    public static final int WORDS = (values().length + 63) >>> 6;
+
+    /** Prefix used when a permission is exposed as a GrantedAuthority. */
+    public static final String AUTHORITY_PREFIX = "PERM_";
+
+    public String authority() {
+        return AUTHORITY_PREFIX + name();
+    }
+}
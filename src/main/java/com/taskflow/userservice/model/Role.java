@@ -1,12 +1,23 @@
 package com.taskflow.userservice.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
- * Simple Role entity used as a granted authority.
+ * Role entity used as a granted authority.
  * - name: for example "USER" or "ADMIN"; JwtAuthFilter maps it to
  *   a Spring Security authority as "ROLE_USER".
+ * - permissions: fine-grained permissions granted directly by this role.
+ * - parent: optional role whose permissions are inherited (ADMIN -> USER).
+ *
+ * Permissions are not read from this entity per request: PermissionRegistry
+ * compiles all roles into bitsets once and again whenever roles change.
+ * Both associations are LAZY so loading a User (roles are EAGER) only
+ * reads the role rows; they are also kept out of JSON responses.
  */
 @Entity
 @Table(name = "roles")
@@ -23,4 +34,17 @@ public class Role {
 
     @Column(nullable = false, unique = true)
     private String name;
+
+    @JsonIgnore
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "role_permissions", joinColumns = @JoinColumn(name = "role_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "permission", nullable = false)
+    @Builder.Default
+    private Set<Permission> permissions = new HashSet<>();
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Role parent;
 }
@@ -2,8 +2,14 @@ package com.taskflow.userservice.repository;
 
 import com.taskflow.userservice.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(String name);
+
+    // Loads every role with its permissions and parent in one query (both are LAZY).
+    @Query("select distinct r from Role r left join fetch r.permissions left join fetch r.parent")
+    List<Role> findAllWithPermissions();
 }
@@ -4,7 +4,6 @@ import com.taskflow.userservice.config.JwtService;
 import com.taskflow.userservice.dto.*;
 import com.taskflow.userservice.model.Role;
 import com.taskflow.userservice.model.User;
-import com.taskflow.userservice.repository.RoleRepository;
 import com.taskflow.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,14 +18,14 @@ import java.util.Set;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
 
     /*
      * register(request)
-     * - Creates a new user with the default role USER.
+     * - Creates a new user with the default role USER (see RoleService).
      * - Password is hashed using the configured PasswordEncoder (BCrypt).
      * - Throws an exception if the email is already registered.
      *
@@ -37,8 +36,7 @@ public class AuthService {
         if (userRepository.existsByEmail(request.getEmail()))
             throw new RuntimeException("Email already registered");
 
-        Role roleUser = roleRepository.findByName("USER")
-                .orElseGet(() -> roleRepository.save(new Role(null, "USER")));
+        Role roleUser = roleService.getDefaultRole();
 
         User user = User.builder()
                 .email(request.getEmail())
@@ -0,0 +1,144 @@
+package com.taskflow.userservice.service;
+
+import com.taskflow.userservice.config.PermissionRegistry;
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import com.taskflow.userservice.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class RoleService {
+
+    private static final Set<Permission> USER_DEFAULTS =
+            EnumSet.of(Permission.USER_READ_SELF, Permission.USER_UPDATE_SELF);
+    private static final Set<Permission> ADMIN_DEFAULTS =
+            EnumSet.of(Permission.USER_READ_ANY, Permission.USER_UPDATE_ANY, Permission.ROLE_MANAGE);
+
+    private final RoleRepository roleRepository;
+    private final PermissionRegistry permissionRegistry;
+
+    /*
+     * init()
+     * - Runs once the context is started, before the app is marked ready.
+     * - Creates the default roles: USER can read/update itself, ADMIN
+     *   inherits USER and can manage any user and roles.
+     * - Backfill: USER/ADMIN rows created before permissions existed have no
+     *   permissions at all; they get the defaults (and ADMIN its parent) so
+     *   existing users keep access to /users/me after an upgrade. Roles that
+     *   already have permissions are left as they are, so changes made
+     *   through updatePermissions/updateParent survive restarts.
+     * - Compiles the permission bitsets once the transaction has committed.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional
+    public void init() {
+        Role user = roleRepository.findByName("USER")
+                .orElseGet(() -> Role.builder().name("USER").build());
+        if (user.getId() == null || user.getPermissions().isEmpty()) {
+            user.setPermissions(EnumSet.copyOf(USER_DEFAULTS));
+            user = roleRepository.save(user);
+        }
+
+        Role admin = roleRepository.findByName("ADMIN")
+                .orElseGet(() -> Role.builder().name("ADMIN").build());
+        if (admin.getId() == null || admin.getPermissions().isEmpty()) {
+            admin.setPermissions(EnumSet.copyOf(ADMIN_DEFAULTS));
+            if (admin.getParent() == null) {
+                admin.setParent(user);
+            }
+            roleRepository.save(admin);
+        }
+
+        recompileAfterCommit();
+    }
+
+    /**
+     * Returns the default USER role, creating it (and recompiling) if missing.
+     */
+    @Transactional
+    public Role getDefaultRole() {
+        return roleRepository.findByName("USER").orElseGet(() -> {
+            Role role = roleRepository.save(Role.builder()
+                    .name("USER")
+                    .permissions(EnumSet.copyOf(USER_DEFAULTS))
+                    .build());
+            recompileAfterCommit();
+            return role;
+        });
+    }
+
+    /**
+     * Replaces the permissions granted directly by a role and recompiles
+     * after commit. Requires ROLE_MANAGE. Throws if the role does not exist.
+     */
+    @Transactional
+    @PreAuthorize("@permissions.has(authentication, 'ROLE_MANAGE')")
+    public Role updatePermissions(String roleName, Set<Permission> permissions) {
+        Role role = roleRepository.findByName(roleName)
+                .orElseThrow(() -> new RuntimeException("Role not found"));
+        role.setPermissions(permissions.isEmpty() ? EnumSet.noneOf(Permission.class) : EnumSet.copyOf(permissions));
+        role = roleRepository.save(role);
+        recompileAfterCommit();
+        return role;
+    }
+
+    /**
+     * Sets (or clears, when parentName is null) the role a role inherits from
+     * and recompiles after commit. Requires ROLE_MANAGE. The proposed parent
+     * chain is checked first, so a cycle is rejected before anything is written.
+     */
+    @Transactional
+    @PreAuthorize("@permissions.has(authentication, 'ROLE_MANAGE')")
+    public Role updateParent(String roleName, String parentName) {
+        Role role = roleRepository.findByName(roleName)
+                .orElseThrow(() -> new RuntimeException("Role not found"));
+        Role parent = null;
+        if (parentName != null) {
+            parent = roleRepository.findByName(parentName)
+                    .orElseThrow(() -> new RuntimeException("Role not found"));
+            Set<String> seen = new HashSet<>();
+            for (Role ancestor = parent; ancestor != null && seen.add(ancestor.getName()); ancestor = ancestor.getParent()) {
+                if (ancestor.getName().equals(roleName)) {
+                    throw new RuntimeException("Role hierarchy cycle");
+                }
+            }
+        }
+        role.setParent(parent);
+        role = roleRepository.save(role);
+        recompileAfterCommit();
+        return role;
+    }
+
+    /*
+     * recompileAfterCommit()
+     * - Inside a transaction, defers PermissionRegistry.recompile() until the
+     *   commit succeeded, so the snapshot never contains uncommitted (or
+     *   rolled back) role changes. recompile() runs in its own transaction,
+     *   so it reads the committed state of every writer.
+     * - Without a transaction it recompiles right away.
+     */
+    private void recompileAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            permissionRegistry.recompile();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                permissionRegistry.recompile();
+            }
+        });
+    }
+}
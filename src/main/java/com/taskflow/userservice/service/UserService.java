@@ -4,6 +4,7 @@ import com.taskflow.userservice.dto.UpdateUserRequest;
 import com.taskflow.userservice.model.User;
 import com.taskflow.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -61,7 +62,9 @@ public class UserService {
 
     /**
      * Updates any user (admin use or internal). Kept for completeness.
+     * Requires the USER_UPDATE_ANY permission (checked against the bitset).
      */
+    @PreAuthorize("@permissions.has(authentication, 'USER_UPDATE_ANY')")
     public User updateUser(User user) {
         return userRepository.save(user);
     }
@@ -3,7 +3,7 @@ package com.taskflow.userservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "taskflow.warmup.enabled=false")
 class UserServiceApplicationTests {
 
 	@Test
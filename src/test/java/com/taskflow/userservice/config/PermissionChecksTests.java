@@ -0,0 +1,69 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionChecksTests {
+
+	private final PermissionChecks checks = new PermissionChecks();
+
+	private final PermissionSet userSet = PermissionRegistry.compile(List.of(Role.builder()
+			.name("USER")
+			.permissions(EnumSet.of(Permission.USER_READ_SELF, Permission.USER_UPDATE_SELF))
+			.build())).get("USER");
+
+	@Test
+	void requireGrantsWhenAllBitsPresent() {
+		Authentication auth = new PermissionAuthenticationToken("a@b.c", userSet);
+
+		assertTrue(checks.require(Permission.USER_READ_SELF, Permission.USER_UPDATE_SELF)
+				.check(() -> auth, null).isGranted());
+		assertFalse(checks.require(Permission.USER_READ_SELF, Permission.USER_READ_ANY)
+				.check(() -> auth, null).isGranted());
+	}
+
+	@Test
+	void hasChecksSinglePermission() {
+		Authentication auth = new PermissionAuthenticationToken("a@b.c", userSet);
+
+		assertTrue(checks.has(auth, "USER_READ_SELF"));
+		assertFalse(checks.has(auth, "USER_UPDATE_ANY"));
+	}
+
+	@Test
+	void otherAuthenticationTypesAreDenied() {
+		// Even with a matching authority string, only the compiled bitset counts.
+		Authentication other = new UsernamePasswordAuthenticationToken("a@b.c", null,
+				List.of(new SimpleGrantedAuthority("PERM_USER_READ_SELF")));
+
+		assertFalse(checks.require(Permission.USER_READ_SELF).check(() -> other, null).isGranted());
+		assertFalse(checks.has(other, "USER_READ_SELF"));
+		assertFalse(checks.has(null, "USER_READ_SELF"));
+	}
+
+	@Test
+	void unknownPermissionNameIsDenied() {
+		Authentication auth = new PermissionAuthenticationToken("a@b.c", userSet);
+
+		assertFalse(checks.has(auth, "USER_READ_SEFL"));
+		assertFalse(checks.has(auth, null));
+	}
+
+	@Test
+	void tokensWithDifferentPermissionsAreNotEqual() {
+		PermissionSet none = PermissionRegistry.compile(List.of(Role.builder().name("USER").build())).get("USER");
+
+		assertNotEquals(new PermissionAuthenticationToken("a@b.c", userSet), new PermissionAuthenticationToken("a@b.c", none));
+		assertEquals(new PermissionAuthenticationToken("a@b.c", userSet), new PermissionAuthenticationToken("a@b.c", userSet));
+	}
+
+}
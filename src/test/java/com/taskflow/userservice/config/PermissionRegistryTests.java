@@ -0,0 +1,121 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import com.taskflow.userservice.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PermissionRegistryTests {
+
+	private final Role user = Role.builder().name("USER").permissions(EnumSet.of(Permission.USER_READ_SELF)).build();
+	private final Role auditor = Role.builder().name("AUDITOR").permissions(EnumSet.of(Permission.USER_READ_ANY)).build();
+
+	@Test
+	void childInheritsParentPermissions() {
+		Role admin = Role.builder().name("ADMIN").permissions(EnumSet.of(Permission.ROLE_MANAGE)).parent(user).build();
+
+		Map<String, PermissionSet> compiled = PermissionRegistry.compile(List.of(admin, user));
+
+		PermissionSet adminSet = compiled.get("ADMIN");
+		assertTrue(adminSet.has(Permission.ROLE_MANAGE));
+		assertTrue(adminSet.has(Permission.USER_READ_SELF));
+		assertTrue(adminSet.hasAll(PermissionSet.mask(Permission.ROLE_MANAGE, Permission.USER_READ_SELF)));
+		assertFalse(compiled.get("USER").has(Permission.ROLE_MANAGE));
+		assertTrue(hasAuthority(adminSet, "ROLE_ADMIN"));
+	}
+
+	@Test
+	void cycleIsRejected() {
+		Role a = Role.builder().name("A").build();
+		Role b = Role.builder().name("B").parent(a).build();
+		a.setParent(b);
+
+		assertThrows(IllegalStateException.class, () -> PermissionRegistry.compile(List.of(a, b)));
+	}
+
+	@Test
+	void permissionAuthoritiesDoNotCollideWithRoles() {
+		Role admin = Role.builder().name("ADMIN").permissions(EnumSet.of(Permission.ROLE_MANAGE)).build();
+
+		PermissionSet adminSet = PermissionRegistry.compile(List.of(admin)).get("ADMIN");
+
+		assertTrue(hasAuthority(adminSet, "PERM_ROLE_MANAGE"));
+		assertFalse(hasAuthority(adminSet, "ROLE_MANAGE"));
+	}
+
+	@Test
+	void singleRoleReturnsSharedInstance() {
+		PermissionRegistry registry = registryWith(user, auditor);
+
+		PermissionSet first = registry.forRoles(Set.of(user));
+
+		assertSame(first, registry.forRoles(Set.of(Role.builder().name("USER").build())));
+		assertTrue(first.has(Permission.USER_READ_SELF));
+	}
+
+	@Test
+	void multipleRolesAreMergedAndCached() {
+		PermissionRegistry registry = registryWith(user, auditor);
+
+		PermissionSet merged = registry.forRoles(new LinkedHashSet<>(List.of(user, auditor)));
+
+		assertTrue(merged.has(Permission.USER_READ_SELF));
+		assertTrue(merged.has(Permission.USER_READ_ANY));
+		assertTrue(hasAuthority(merged, "ROLE_USER"));
+		assertTrue(hasAuthority(merged, "ROLE_AUDITOR"));
+		// Same combination in another order hits the cache.
+		assertSame(merged, registry.forRoles(new LinkedHashSet<>(List.of(auditor, user))));
+	}
+
+	@Test
+	void recompileDropsMergedCache() {
+		PermissionRegistry registry = registryWith(user, auditor);
+		PermissionSet before = registry.forRoles(new LinkedHashSet<>(List.of(user, auditor)));
+
+		registry.recompile();
+
+		assertNotSame(before, registry.forRoles(new LinkedHashSet<>(List.of(user, auditor))));
+	}
+
+	@Test
+	void uncompiledRoleGrantsNoPermissions() {
+		PermissionRegistry registry = registryWith(user);
+		Role unknown = Role.builder().name("NEW").permissions(EnumSet.allOf(Permission.class)).build();
+
+		PermissionSet set = registry.forRoles(Set.of(unknown));
+
+		assertTrue(hasAuthority(set, "ROLE_NEW"));
+		for (Permission permission : Permission.values()) {
+			assertFalse(set.has(permission));
+		}
+		assertSame(set, registry.forRoles(Set.of(unknown)));
+	}
+
+	@Test
+	void noRolesIsEmpty() {
+		assertSame(PermissionSet.EMPTY, registryWith(user).forRoles(Set.of()));
+	}
+
+	private static PermissionRegistry registryWith(Role... roles) {
+		RoleRepository repository = mock(RoleRepository.class);
+		when(repository.findAllWithPermissions()).thenReturn(List.of(roles));
+		PermissionRegistry registry = new PermissionRegistry(repository);
+		registry.recompile();
+		return registry;
+	}
+
+	private static boolean hasAuthority(PermissionSet set, String authority) {
+		return set.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals(authority));
+	}
+
+}
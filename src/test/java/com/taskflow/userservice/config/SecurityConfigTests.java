@@ -0,0 +1,68 @@
+package com.taskflow.userservice.config;
+
+import com.taskflow.userservice.controller.UserController;
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import com.taskflow.userservice.model.User;
+import com.taskflow.userservice.repository.UserRepository;
+import com.taskflow.userservice.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, PermissionChecks.class})
+class SecurityConfigTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private UserService userService;
+
+	@MockitoBean
+	private JwtService jwtService;
+
+	@MockitoBean
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private PermissionRegistry permissionRegistry;
+
+	@Test
+	void meIsForbiddenWithoutPermission() throws Exception {
+		PermissionSet none = PermissionRegistry.compile(List.of(Role.builder().name("GUEST").build())).get("GUEST");
+
+		mvc.perform(get("/users/me").with(authentication(new PermissionAuthenticationToken("a@b.c", none))))
+				.andExpect(status().isForbidden());
+		mvc.perform(put("/users/me").contentType("application/json").content("{}")
+						.with(authentication(new PermissionAuthenticationToken("a@b.c", none))))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void meIsAllowedWithReadPermission() throws Exception {
+		PermissionSet reader = PermissionRegistry.compile(List.of(Role.builder()
+				.name("USER")
+				.permissions(EnumSet.of(Permission.USER_READ_SELF))
+				.build())).get("USER");
+		when(userService.getCurrentUser()).thenReturn(Optional.of(User.builder().email("a@b.c").build()));
+
+		mvc.perform(get("/users/me").with(authentication(new PermissionAuthenticationToken("a@b.c", reader))))
+				.andExpect(status().isOk());
+	}
+
+}
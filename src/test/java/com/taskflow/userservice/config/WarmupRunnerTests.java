@@ -0,0 +1,95 @@
+package com.taskflow.userservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.userservice.model.User;
+import com.taskflow.userservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class WarmupRunnerTests {
+
+	private final WarmupProperties properties = new WarmupProperties();
+	private final JwtService jwtService = mock(JwtService.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final JwtAuthFilter jwtAuthFilter = mock(JwtAuthFilter.class);
+	private final LoggingSystem loggingSystem = mock(LoggingSystem.class);
+
+	private final WarmupRunner runner = new WarmupRunner(properties, jwtService, userRepository, jwtAuthFilter,
+			new ObjectMapper(), mock(DataSource.class), loggingSystem);
+
+	WarmupRunnerTests() {
+		when(userRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(User.builder().email("a@b.c").build()));
+		when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+		when(jwtService.generateToken(anyString())).thenReturn("token");
+		when(jwtService.extractEmail(anyString())).thenReturn("a@b.c");
+		when(jwtService.isTokenValid(anyString(), anyString())).thenReturn(true);
+		when(jwtAuthFilter.authenticate(anyString(), anyString()))
+				.thenReturn(new PermissionAuthenticationToken("a@b.c", PermissionSet.EMPTY));
+	}
+
+	@Test
+	void disabledWarmupDoesNothing() {
+		properties.setEnabled(false);
+
+		runner.run(new DefaultApplicationArguments());
+
+		assertEquals("DISABLED", runner.health().getDetails().get("status"));
+		verifyNoInteractions(jwtService, userRepository, loggingSystem);
+	}
+
+	@Test
+	void completedWarmupReportsEveryStep() {
+		properties.setIterations(10);
+
+		runner.run(new DefaultApplicationArguments());
+
+		Map<String, Object> details = runner.health().getDetails();
+		assertEquals("COMPLETED", details.get("status"));
+		assertEquals(10, details.get("completedIterations"));
+		Map<?, ?> steps = (Map<?, ?>) details.get("steps");
+		assertEquals(List.of("connectionPool", "jwtGenerate", "jwtValidate", "findByEmail", "authFilter", "json"),
+				List.copyOf(steps.keySet()));
+		Map<?, ?> jwt = (Map<?, ?>) steps.get("jwtGenerate");
+		assertTrue(jwt.containsKey("beforeMedianMs"));
+		assertTrue(jwt.containsKey("afterMedianMs"));
+		// Report fields keep their insertion order.
+		assertEquals(List.of("status", "durationMs", "iterations", "completedIterations", "steps"),
+				List.copyOf(details.keySet()));
+		verify(loggingSystem).setLogLevel("org.hibernate.SQL", LogLevel.OFF);
+		verify(loggingSystem).setLogLevel("org.hibernate.SQL", null);
+		// Warms an existing user and the filter's sequence without writing anything.
+		verify(userRepository, atLeastOnce()).findByEmail("a@b.c");
+		verify(jwtAuthFilter, atLeastOnce()).authenticate("token", "a@b.c");
+		verify(userRepository, never()).save(any());
+	}
+
+	@Test
+	void slowWarmupTimesOutAndKeepsPartialResults() {
+		properties.setTimeout(Duration.ofMillis(100));
+		when(jwtService.generateToken(anyString())).thenAnswer(inv -> {
+			Thread.sleep(5_000);
+			return "token";
+		});
+
+		runner.run(new DefaultApplicationArguments());
+
+		Map<String, Object> details = runner.health().getDetails();
+		assertEquals("TIMED_OUT", details.get("status"));
+		assertTrue(((Map<?, ?>) details.get("steps")).containsKey("connectionPool"));
+		verify(loggingSystem).setLogLevel("org.hibernate.SQL", null);
+	}
+
+}
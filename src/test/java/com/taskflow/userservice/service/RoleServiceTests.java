@@ -0,0 +1,106 @@
+package com.taskflow.userservice.service;
+
+import com.taskflow.userservice.config.PermissionRegistry;
+import com.taskflow.userservice.model.Permission;
+import com.taskflow.userservice.model.Role;
+import com.taskflow.userservice.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RoleServiceTests {
+
+	private final RoleRepository roleRepository = mock(RoleRepository.class);
+	private final PermissionRegistry permissionRegistry = mock(PermissionRegistry.class);
+	private final RoleService roleService = new RoleService(roleRepository, permissionRegistry);
+
+	@Test
+	void initCreatesDefaultRolesOnFirstStart() {
+		when(roleRepository.findByName(any())).thenReturn(Optional.empty());
+		when(roleRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+		roleService.init();
+
+		ArgumentCaptor<Role> saved = ArgumentCaptor.forClass(Role.class);
+		verify(roleRepository, times(2)).save(saved.capture());
+		List<Role> roles = saved.getAllValues();
+		assertEquals("USER", roles.get(0).getName());
+		assertEquals(EnumSet.of(Permission.USER_READ_SELF, Permission.USER_UPDATE_SELF), roles.get(0).getPermissions());
+		assertEquals("ADMIN", roles.get(1).getName());
+		assertSame(roles.get(0), roles.get(1).getParent());
+		verify(permissionRegistry).recompile();
+	}
+
+	@Test
+	void initBackfillsRolesWithoutPermissions() {
+		// Rows created before permissions existed.
+		Role user = Role.builder().id(1L).name("USER").build();
+		Role admin = Role.builder().id(2L).name("ADMIN").build();
+		when(roleRepository.findByName("USER")).thenReturn(Optional.of(user));
+		when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(admin));
+		when(roleRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+		roleService.init();
+
+		assertEquals(EnumSet.of(Permission.USER_READ_SELF, Permission.USER_UPDATE_SELF), user.getPermissions());
+		assertEquals(EnumSet.of(Permission.USER_READ_ANY, Permission.USER_UPDATE_ANY, Permission.ROLE_MANAGE),
+				admin.getPermissions());
+		assertSame(user, admin.getParent());
+		verify(roleRepository).save(user);
+		verify(roleRepository).save(admin);
+		verify(permissionRegistry).recompile();
+	}
+
+	@Test
+	void initLeavesConfiguredRolesUntouched() {
+		Role user = Role.builder().id(1L).name("USER").permissions(EnumSet.of(Permission.USER_READ_SELF)).build();
+		Role admin = Role.builder().id(2L).name("ADMIN").permissions(EnumSet.of(Permission.ROLE_MANAGE)).build();
+		when(roleRepository.findByName("USER")).thenReturn(Optional.of(user));
+		when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(admin));
+
+		roleService.init();
+
+		verify(roleRepository, never()).save(any());
+		assertEquals(EnumSet.of(Permission.USER_READ_SELF), user.getPermissions());
+		assertNull(admin.getParent());
+		verify(permissionRegistry).recompile();
+	}
+
+	@Test
+	void updateParentRejectsCycleBeforeSaving() {
+		Role user = Role.builder().id(1L).name("USER").build();
+		Role admin = Role.builder().id(2L).name("ADMIN").parent(user).build();
+		when(roleRepository.findByName("USER")).thenReturn(Optional.of(user));
+		when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(admin));
+
+		assertThrows(RuntimeException.class, () -> roleService.updateParent("USER", "ADMIN"));
+		assertThrows(RuntimeException.class, () -> roleService.updateParent("USER", "USER"));
+
+		assertNull(user.getParent());
+		verify(roleRepository, never()).save(any());
+		verify(permissionRegistry, never()).recompile();
+	}
+
+	@Test
+	void updateParentSavesAndRecompiles() {
+		Role user = Role.builder().id(1L).name("USER").build();
+		Role admin = Role.builder().id(2L).name("ADMIN").build();
+		when(roleRepository.findByName("USER")).thenReturn(Optional.of(user));
+		when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(admin));
+		when(roleRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+		roleService.updateParent("ADMIN", "USER");
+
+		assertSame(user, admin.getParent());
+		verify(roleRepository).save(admin);
+		verify(permissionRegistry).recompile();
+	}
+
+}